@@ -0,0 +1,17 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the admission control route a handler method belongs to. The route selects the rate
+ * and concurrency limits configured under {@code admission-control.routes.<name>}; handlers
+ * without this annotation use {@code admission-control.defaults}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionControl {
+    String value();
+}
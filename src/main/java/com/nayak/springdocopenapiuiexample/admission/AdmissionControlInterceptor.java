@@ -0,0 +1,126 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import com.nayak.springdocopenapiuiexample.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds requests before they reach the controller: each client gets a token bucket per route, and
+ * routes with {@code max-concurrent} set share a non-blocking in-flight cap. Rejections are thrown
+ * as {@link AdmissionRejectedException} and counted in {@code students.admission.rejected}.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    static final String DEFAULT_ROUTE = "default";
+    static final String REJECTED_METRIC = "students.admission.rejected";
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final AdmissionControlProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets;
+    private final Map<String, AdmissionControlProperties.RouteLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > properties.getMaxTrackedClients();
+            }
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        String route = resolveRoute(handlerMethod);
+        AdmissionControlProperties.RouteLimit limit = limits.computeIfAbsent(route, properties::limitFor);
+
+        // Rate limit first so a flooding client is turned away before it can occupy a shared permit.
+        TokenBucket bucket = bucketFor(route, resolveClient(request), limit);
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            rejected(route, "rate_limit");
+            throw new AdmissionRejectedException(
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1,
+                    "Rate limit exceeded, please retry later"
+            );
+        }
+
+        if (limit.getMaxConcurrent() > 0) {
+            Semaphore permits = inFlight.computeIfAbsent(route, key -> new Semaphore(limit.getMaxConcurrent()));
+            if (!permits.tryAcquire()) {
+                bucket.refund();
+                rejected(route, "concurrency");
+                throw new AdmissionRejectedException(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        Math.max(1, limit.getOverloadRetryAfter().toSeconds()),
+                        "Too many concurrent requests, please retry later"
+                );
+            }
+            request.setAttribute(PERMIT_ATTRIBUTE, permits);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Semaphore permits) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    private String resolveRoute(HandlerMethod handlerMethod) {
+        AdmissionControl admissionControl = handlerMethod.getMethodAnnotation(AdmissionControl.class);
+        return admissionControl != null ? admissionControl.value() : DEFAULT_ROUTE;
+    }
+
+    /**
+     * The client header is only honoured when the request comes from a trusted proxy; anyone else
+     * could rotate it to get a fresh bucket on every request.
+     */
+    private String resolveClient(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (properties.getTrustedProxies().contains(remoteAddress)) {
+            String client = request.getHeader(properties.getClientHeader());
+            if (StringUtils.hasText(client)) {
+                return client;
+            }
+        }
+        return remoteAddress;
+    }
+
+    private TokenBucket bucketFor(String route, String client, AdmissionControlProperties.RouteLimit limit) {
+        return buckets.computeIfAbsent(route + ':' + client,
+                key -> new TokenBucket(limit.getBurst(), limit.getRequestsPerSecond(), System::nanoTime));
+    }
+
+    private void rejected(String route, String reason) {
+        Counter.builder(REJECTED_METRIC)
+                .description("Requests shed by admission control")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
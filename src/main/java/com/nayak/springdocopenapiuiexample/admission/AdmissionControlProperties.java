@@ -0,0 +1,103 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "admission-control")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Request header identifying the calling client, set by a trusted proxy.
+     */
+    @NotBlank
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Remote addresses allowed to set the client header; all other requests are keyed by remote address.
+     */
+    @NotNull
+    private Set<String> trustedProxies = new HashSet<>();
+
+    /**
+     * Number of per-client buckets kept; the least recently used bucket is evicted beyond this.
+     */
+    @Positive
+    private int maxTrackedClients = 10_000;
+
+    @Valid
+    @NotNull
+    private RouteLimit defaults = RouteLimit.builtIn();
+
+    @Valid
+    @NotNull
+    private Map<String, RouteLimit> routes = new HashMap<>();
+
+    /**
+     * Resolves the limits for a route; fields the route leaves unset are taken from {@link #defaults}.
+     */
+    public RouteLimit limitFor(String route) {
+        RouteLimit limit = routes.get(route);
+        return limit != null ? limit.withFallback(defaults) : defaults;
+    }
+
+    @Data
+    public static class RouteLimit {
+
+        /**
+         * Sustained requests per second allowed for a single client.
+         */
+        @Positive
+        private Double requestsPerSecond;
+
+        /**
+         * Requests a single client may issue back to back before being throttled.
+         */
+        @Positive
+        private Integer burst;
+
+        /**
+         * Requests allowed in flight across all clients; 0 disables the cap.
+         */
+        @PositiveOrZero
+        private Integer maxConcurrent;
+
+        /**
+         * Retry-After advertised when the concurrency cap sheds a request.
+         */
+        private Duration overloadRetryAfter;
+
+        static RouteLimit builtIn() {
+            RouteLimit limit = new RouteLimit();
+            limit.setRequestsPerSecond(50.0);
+            limit.setBurst(100);
+            limit.setMaxConcurrent(0);
+            limit.setOverloadRetryAfter(Duration.ofSeconds(1));
+            return limit;
+        }
+
+        RouteLimit withFallback(RouteLimit fallback) {
+            RouteLimit merged = new RouteLimit();
+            merged.setRequestsPerSecond(requestsPerSecond != null ? requestsPerSecond : fallback.getRequestsPerSecond());
+            merged.setBurst(burst != null ? burst : fallback.getBurst());
+            merged.setMaxConcurrent(maxConcurrent != null ? maxConcurrent : fallback.getMaxConcurrent());
+            merged.setOverloadRetryAfter(overloadRetryAfter != null ? overloadRetryAfter : fallback.getOverloadRetryAfter());
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nayak.springdocopenapiuiexample.config;
+
+import com.nayak.springdocopenapiuiexample.admission.AdmissionControlInterceptor;
+import com.nayak.springdocopenapiuiexample.admission.AdmissionControlProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/students", "/api/students/**");
+    }
+}
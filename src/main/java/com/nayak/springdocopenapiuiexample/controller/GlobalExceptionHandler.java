@@ -3,7 +3,9 @@ package com.nayak.springdocopenapiuiexample.controller;
 
 import com.nayak.springdocopenapiuiexample.dto.ErrorResponse;
 import com.nayak.springdocopenapiuiexample.dto.ValidationErrorResponse;
+import com.nayak.springdocopenapiuiexample.exception.AdmissionRejectedException;
 import com.nayak.springdocopenapiuiexample.exception.StudentNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -46,6 +48,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(AdmissionRejectedException ex) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getStatus().value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
 
 }
 
@@ -1,5 +1,6 @@
 package com.nayak.springdocopenapiuiexample.controller;
 
+import com.nayak.springdocopenapiuiexample.admission.AdmissionControl;
 import com.nayak.springdocopenapiuiexample.dto.StudentDTO;
 import com.nayak.springdocopenapiuiexample.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +23,26 @@ import java.util.List;
 @RequiredArgsConstructor
 @RequestMapping("/api/students")
 @Tag(name = "Student Management", description = "APIs for managing student information")
+@ApiResponses(
+        @ApiResponse(
+                responseCode = "429",
+                description = "Client exceeded its rate limit; retry after the Retry-After header",
+                content = @Content(
+                        mediaType = "application/json",
+                        examples = @ExampleObject(
+                                name = "rateLimited",
+                                summary = "Rate limit response",
+                                value = """
+                                        {
+                                            "status": 429,
+                                            "message": "Rate limit exceeded, please retry later",
+                                            "timestamp": "2023-11-08T12:00:00Z"
+                                        }
+                                        """
+                        )
+                )
+        )
+)
 public class StudentController {
 
     private final StudentService studentService;
@@ -65,8 +86,27 @@ public class StudentController {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many concurrent requests; retry after the Retry-After header",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "overloaded",
+                                    summary = "Overload response",
+                                    value = """
+                                            {
+                                                "status": 503,
+                                                "message": "Too many concurrent requests, please retry later",
+                                                "timestamp": "2023-11-08T12:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
+    @AdmissionControl("list")
     @GetMapping
     public ResponseEntity<List<StudentDTO>> getAllStudents() {
         return ResponseEntity.ok(studentService.getAllStudents());
@@ -119,6 +159,7 @@ public class StudentController {
                     )
             )
     })
+    @AdmissionControl("read")
     @GetMapping("/{id}")
     public ResponseEntity<StudentDTO> getStudentById(
             @Parameter(description = "ID of the student to retrieve", required = true, example = "1")
@@ -178,6 +219,7 @@ public class StudentController {
                     )
             )
     })
+    @AdmissionControl("write")
     @PostMapping
     public ResponseEntity<StudentDTO> createStudent(
             @Parameter(
@@ -274,6 +316,7 @@ public class StudentController {
                     )
             )
     })
+    @AdmissionControl("write")
     @PutMapping("/{id}")
     public ResponseEntity<StudentDTO> updateStudent(
             @Parameter(description = "ID of the student to update", required = true, example = "1")
@@ -330,6 +373,7 @@ public class StudentController {
                     )
             )
     })
+    @AdmissionControl("write")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteStudent(
             @Parameter(description = "ID of the student to delete", required = true, example = "1")
@@ -0,0 +1,32 @@
+package com.nayak.springdocopenapiuiexample.perf;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "perf.data")
+public class PerfDataProperties {
+
+    /**
+     * Number of students loaded at startup.
+     */
+    @PositiveOrZero
+    @Max(10_000_000)
+    private int students = 100_000;
+
+    /**
+     * Rows sent per JDBC batch; each batch is committed in its own transaction.
+     */
+    @Positive
+    private int batchSize = 5_000;
+
+    /**
+     * Seed for the generator; the same seed and size always produce the same rows.
+     */
+    private long seed = 42;
+}
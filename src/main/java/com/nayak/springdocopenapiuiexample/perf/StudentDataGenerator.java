@@ -0,0 +1,114 @@
+package com.nayak.springdocopenapiuiexample.perf;
+
+import com.nayak.springdocopenapiuiexample.dto.StudentDTO;
+import com.nayak.springdocopenapiuiexample.model.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Loads a reproducible set of students into the {@code perf} profile's in-memory database.
+ * Rows bypass JPA and go through JDBC batches so that millions of rows load in seconds.
+ * Loading runs once every singleton (including the JPA schema) is ready but before the web
+ * server starts listening, so clients never see a partly loaded table.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PerfDataProperties.class)
+public class StudentDataGenerator implements SmartInitializingSingleton {
+    private static final String INSERT_SQL = """
+            INSERT INTO students (first_name, last_name, email, date_of_birth, status, student_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris"
+    };
+    private static final Student.StudentStatus[] STATUSES = Student.StudentStatus.values();
+    private static final LocalDate OLDEST_DATE_OF_BIRTH = LocalDate.of(1980, 1, 1);
+    private static final int DATE_OF_BIRTH_RANGE_DAYS = 25 * 365;
+    private static final int STUDENT_ID_NUMBERS = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PerfDataProperties properties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int total = properties.getStudents();
+        int batchSize = properties.getBatchSize();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        long started = System.nanoTime();
+
+        List<Object[]> batch = new ArrayList<>(Math.min(batchSize, total));
+        for (int index = 0; index < total; index++) {
+            batch.add(toRow(generate(index, random)));
+            if (batch.size() == batchSize || index == total - 1) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+                batch.clear();
+            }
+        }
+
+        log.info("Loaded {} students in {} ms", total, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Builds the student at {@code index}. Email and student ID are derived from the index so they
+     * stay unique; everything else is drawn from {@code random} and satisfies {@link StudentDTO}'s constraints.
+     */
+    static StudentDTO generate(int index, SplittableRandom random) {
+        StudentDTO student = new StudentDTO();
+        student.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        student.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        student.setEmail(student.getFirstName().toLowerCase() + '.' + student.getLastName().toLowerCase()
+                + '.' + index + "@example.com");
+        student.setDateOfBirth(OLDEST_DATE_OF_BIRTH.plusDays(random.nextInt(DATE_OF_BIRTH_RANGE_DAYS)));
+        student.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        student.setStudentId(studentId(index));
+        return student;
+    }
+
+    private static String studentId(int index) {
+        int block = index / STUDENT_ID_NUMBERS;
+        char[] id = new char[8];
+        id[0] = (char) ('A' + block / 26 % 26);
+        id[1] = (char) ('A' + block % 26);
+        int number = index % STUDENT_ID_NUMBERS;
+        for (int position = 7; position >= 2; position--) {
+            id[position] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(id);
+    }
+
+    private static Object[] toRow(StudentDTO student) {
+        return new Object[]{
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                Date.valueOf(student.getDateOfBirth()),
+                student.getStatus().name(),
+                student.getStudentId()
+        };
+    }
+}
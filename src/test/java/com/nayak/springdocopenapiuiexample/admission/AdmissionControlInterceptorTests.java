@@ -0,0 +1,169 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import com.nayak.springdocopenapiuiexample.controller.GlobalExceptionHandler;
+import com.nayak.springdocopenapiuiexample.controller.StudentController;
+import com.nayak.springdocopenapiuiexample.dto.StudentDTO;
+import com.nayak.springdocopenapiuiexample.exception.StudentNotFoundException;
+import com.nayak.springdocopenapiuiexample.service.StudentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdmissionControlInterceptorTests {
+
+    private static final String TRUSTED_PROXY = "10.0.0.1";
+    private static final String FLOODER = "10.0.0.2";
+
+    private final StudentService studentService = mock(StudentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.getTrustedProxies().add(TRUSTED_PROXY);
+        properties.getDefaults().setRequestsPerSecond(0.001);
+        properties.getDefaults().setBurst(2);
+
+        AdmissionControlProperties.RouteLimit read = new AdmissionControlProperties.RouteLimit();
+        read.setRequestsPerSecond(1.0);
+        read.setBurst(1);
+        properties.getRoutes().put("read", read);
+
+        AdmissionControlProperties.RouteLimit list = new AdmissionControlProperties.RouteLimit();
+        list.setRequestsPerSecond(0.001);
+        list.setBurst(2);
+        list.setMaxConcurrent(1);
+        list.setOverloadRetryAfter(Duration.ofSeconds(2));
+        properties.getRoutes().put("list", list);
+
+        when(studentService.getStudentById(1L)).thenReturn(new StudentDTO());
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudentController(studentService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new AdmissionControlInterceptor(properties, meterRegistry))
+                .build();
+    }
+
+    @Test
+    void rateLimitedRequestGets429WithRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/students/1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/students/1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded, please retry later"));
+
+        assertThat(rejections("read", "rate_limit")).isEqualTo(1);
+    }
+
+    @Test
+    void unconfiguredRouteFallsBackToDefaults() throws Exception {
+        mockMvc.perform(delete("/api/students/1")).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/students/1")).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/students/1")).andExpect(status().isTooManyRequests());
+
+        assertThat(rejections("write", "rate_limit")).isEqualTo(1);
+        assertThat(rejections("read", "rate_limit")).isZero();
+    }
+
+    @Test
+    void concurrencyCapSheds503WithoutSpendingToken() throws Exception {
+        AtomicReference<MvcResult> overlapping = new AtomicReference<>();
+        when(studentService.getAllStudents())
+                .thenAnswer(invocation -> {
+                    overlapping.set(mockMvc.perform(get("/api/students")).andReturn());
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/students")).andExpect(status().isOk());
+
+        assertThat(overlapping.get().getResponse().getStatus()).isEqualTo(503);
+        assertThat(overlapping.get().getResponse().getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejections("list", "concurrency")).isEqualTo(1);
+
+        // The shed request left the second token of the burst in place.
+        mockMvc.perform(get("/api/students")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/students")).andExpect(status().isTooManyRequests());
+        assertThat(rejections("list", "rate_limit")).isEqualTo(1);
+    }
+
+    @Test
+    void clientOverItsRateLimitNeverCauses503ForAnotherClient() throws Exception {
+        AtomicReference<MvcResult> flooder = new AtomicReference<>();
+        when(studentService.getAllStudents())
+                .thenReturn(List.of(), List.of())
+                .thenAnswer(invocation -> {
+                    flooder.set(mockMvc.perform(get("/api/students").with(remoteAddress(FLOODER))).andReturn());
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/students").with(remoteAddress(FLOODER))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/students").with(remoteAddress(FLOODER))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/students")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/students")).andExpect(status().isOk());
+
+        assertThat(flooder.get().getResponse().getStatus()).isEqualTo(429);
+        assertThat(rejections("list", "rate_limit")).isEqualTo(1);
+        assertThat(rejections("list", "concurrency")).isZero();
+    }
+
+    @Test
+    void permitIsReleasedWhenHandlerThrows() throws Exception {
+        when(studentService.getAllStudents()).thenThrow(new StudentNotFoundException("boom"));
+
+        mockMvc.perform(get("/api/students")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/students")).andExpect(status().isNotFound());
+
+        assertThat(rejections("list", "concurrency")).isZero();
+    }
+
+    @Test
+    void clientHeaderIsIgnoredUnlessSentByTrustedProxy() throws Exception {
+        mockMvc.perform(get("/api/students/1").header("X-Client-Id", "tenant-a"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/students/1").header("X-Client-Id", "tenant-b"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/students/1").with(remoteAddress(TRUSTED_PROXY)).header("X-Client-Id", "tenant-a"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/students/1").with(remoteAddress(TRUSTED_PROXY)).header("X-Client-Id", "tenant-b"))
+                .andExpect(status().isOk());
+    }
+
+    private double rejections(String route, String reason) {
+        var counter = meterRegistry.find(AdmissionControlInterceptor.REJECTED_METRIC)
+                .tag("route", route)
+                .tag("reason", reason)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlPropertiesTests {
+
+    @Test
+    void routeInheritsUnsetFieldsFromConfiguredDefaults() {
+        AdmissionControlProperties properties = bind(Map.of(
+                "admission-control.defaults.requests-per-second", "10",
+                "admission-control.defaults.overload-retry-after", "3s",
+                "admission-control.routes.read.max-concurrent", "2"
+        ));
+
+        AdmissionControlProperties.RouteLimit read = properties.limitFor("read");
+
+        assertThat(read.getRequestsPerSecond()).isEqualTo(10.0);
+        assertThat(read.getBurst()).isEqualTo(100);
+        assertThat(read.getMaxConcurrent()).isEqualTo(2);
+        assertThat(read.getOverloadRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void routeFieldsOverrideDefaults() {
+        AdmissionControlProperties properties = bind(Map.of(
+                "admission-control.defaults.burst", "20",
+                "admission-control.routes.list.burst", "5"
+        ));
+
+        assertThat(properties.limitFor("list").getBurst()).isEqualTo(5);
+        assertThat(properties.limitFor("write").getBurst()).isEqualTo(20);
+    }
+
+    private static AdmissionControlProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bind("admission-control", AdmissionControlProperties.class)
+                .get();
+    }
+}
@@ -0,0 +1,49 @@
+package com.nayak.springdocopenapiuiexample.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void refillsFromElapsedTimeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 4, clock::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+
+    @Test
+    void refundReturnsTokenWithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+
+        assertThat(bucket.tryConsume()).isZero();
+        bucket.refund();
+        bucket.refund();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+}
@@ -0,0 +1,42 @@
+package com.nayak.springdocopenapiuiexample.perf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {"perf.data.students=12345", "perf.data.batch-size=5000"})
+class PerfProfileTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void loadsConfiguredStudentsIncludingFinalPartialBatch() {
+        assertThat(count("SELECT count(*) FROM students")).isEqualTo(12345);
+        assertThat(count("SELECT count(DISTINCT email) FROM students")).isEqualTo(12345);
+        assertThat(count("SELECT count(DISTINCT student_id) FROM students")).isEqualTo(12345);
+    }
+
+    @Test
+    void loadsNothingWhenNoStudentsAreRequested() {
+        PerfDataProperties properties = new PerfDataProperties();
+        properties.setStudents(0);
+
+        new StudentDataGenerator(jdbcTemplate, transactionTemplate, properties).afterSingletonsInstantiated();
+
+        assertThat(count("SELECT count(*) FROM students")).isEqualTo(12345);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
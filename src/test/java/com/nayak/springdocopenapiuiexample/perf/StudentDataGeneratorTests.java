@@ -0,0 +1,43 @@
+package com.nayak.springdocopenapiuiexample.perf;
+
+import com.nayak.springdocopenapiuiexample.dto.StudentDTO;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentDataGeneratorTests {
+
+    @Test
+    void generatedStudentsSatisfyDtoConstraintsAndStayUnique() {
+        SplittableRandom random = new SplittableRandom(42);
+        Set<String> emails = new HashSet<>();
+        Set<String> studentIds = new HashSet<>();
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            for (int index = 999_000; index < 1_001_000; index++) {
+                StudentDTO student = StudentDataGenerator.generate(index, random);
+                assertThat(validator.validate(student)).isEmpty();
+                assertThat(emails.add(student.getEmail())).isTrue();
+                assertThat(studentIds.add(student.getStudentId())).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void sameSeedProducesSameStudents() {
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (int index = 0; index < 100; index++) {
+            assertThat(StudentDataGenerator.generate(index, first)).isEqualTo(StudentDataGenerator.generate(index, second));
+        }
+    }
+}